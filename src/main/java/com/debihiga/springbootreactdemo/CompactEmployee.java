@@ -0,0 +1,27 @@
+package com.debihiga.springbootreactdemo;
+
+import org.springframework.data.rest.core.config.Projection;
+
+/**
+ * Read-only view of an {@link Employee} for listings that only need the names and description.
+ *
+ * Request it with:
+ * curl http://localhost:8080/api/employees?projection=compact -H "Accept:application/hal+json"
+ *
+ * The embedded {@link Manager} is left out, and {@link CompactEmployeeProcessor}
+ * strips the per-item _links, so every employee is serialized as three plain strings.
+ * The collection still carries its own paging _links.
+ *
+ * The processor cannot tell a listing item from a single resource,
+ * so a compact single resource (e.g. /api/employees/3?projection=compact) has no _links either, not even self.
+ * Fetch it without the projection when you need to follow or update it.
+ * */
+@Projection(name = "compact", types = { Employee.class })
+public interface CompactEmployee {
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getDescription();
+}
@@ -0,0 +1,25 @@
+package com.debihiga.springbootreactdemo;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data REST renders every item as a PersistentEntityResource.
+ * Its assembler already builds the self and employee links in toModel(), before any processor runs,
+ * and its serializer adds one link per association (here the manager) while writing the JSON.
+ * For the {@link CompactEmployee} projection nobody follows them,
+ * so the projection is re-wrapped in a plain {@link EntityModel}, which is serialized without any _links.
+ *
+ * This only saves the association links and the bytes on the wire:
+ * the self and employee links are still built and then dropped, and each item costs a second EntityModel.
+ * Not building them at all would need a custom controller or assembler for the compact listing.
+ * */
+@Component
+public class CompactEmployeeProcessor implements RepresentationModelProcessor<EntityModel<CompactEmployee>> {
+
+    @Override
+    public EntityModel<CompactEmployee> process(EntityModel<CompactEmployee> model) {
+        return new EntityModel<>(model.getContent());
+    }
+}
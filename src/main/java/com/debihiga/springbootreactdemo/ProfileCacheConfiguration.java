@@ -0,0 +1,45 @@
+package com.debihiga.springbootreactdemo;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+// tag::code[]
+/**
+ * The frontend fetches the JSON Schema at /api/profile/employees on every loadFromServer(),
+ * but the schema only changes when the application is redeployed.
+ *
+ * Profile responses get an ETag, so that a revalidation is answered with an empty 304 Not Modified,
+ * and successful ones are marked as cacheable by {@link ProfileCacheControlFilter}.
+ * Spring Security leaves an explicitly set Cache-Control header alone.
+ * */
+@Configuration
+public class ProfileCacheConfiguration {
+
+    private static final String PROFILE_PATH = "/api/profile/*";
+
+    /**
+     * Runs first: it buffers the body to compute the ETag,
+     * which also keeps the response open for the cache headers.
+     * */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> profileEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(PROFILE_PATH);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ProfileCacheControlFilter> profileCacheControlFilter() {
+        FilterRegistrationBean<ProfileCacheControlFilter> registration =
+                new FilterRegistrationBean<>(new ProfileCacheControlFilter());
+        registration.addUrlPatterns(PROFILE_PATH);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
+// end::code[]
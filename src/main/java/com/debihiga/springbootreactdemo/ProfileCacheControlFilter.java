@@ -0,0 +1,47 @@
+package com.debihiga.springbootreactdemo;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Marks successful profile responses as privately cacheable for a short while.
+ *
+ * The headers are set after the rest of the chain has run, so only 2xx responses are cached.
+ * This relies on the ShallowEtagHeaderFilter in front of it,
+ * which buffers the body and keeps the response uncommitted until this filter returns.
+ *
+ * /api/profile/employees returns JSON Schema or ALPS depending on the Accept header,
+ * hence Vary: Accept. It is appended, so the CORS Vary values stay in place.
+ * */
+public class ProfileCacheControlFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_CONTROL =
+            CacheControl.maxAge(10, TimeUnit.MINUTES).cachePrivate().getHeaderValue();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        filterChain.doFilter(request, response);
+
+        if (HttpMethod.GET.matches(request.getMethod()) && isSuccessful(response.getStatus())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    private static boolean isSuccessful(int status) {
+        return status >= 200 && status < 300;
+    }
+}
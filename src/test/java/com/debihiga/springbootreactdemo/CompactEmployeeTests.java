@@ -0,0 +1,61 @@
+package com.debihiga.springbootreactdemo;
+
+import static com.debihiga.springbootreactdemo.TestCredentials.GREG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Checks the ?projection=compact listing against the default one.
+ * The employees come from {@link DatabaseLoader}.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CompactEmployeeTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void compactItemsHaveNoLinksAndNoManager() throws Exception {
+        this.mvc.perform(get("/api/employees").param("projection", "compact")
+                .header(HttpHeaders.AUTHORIZATION, GREG)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.employees[0].firstName").exists())
+                .andExpect(jsonPath("$._embedded.employees[*]._links").isEmpty())
+                .andExpect(jsonPath("$._embedded.employees[*].manager").isEmpty())
+                .andExpect(jsonPath("$._links.profile").exists());
+    }
+
+    @Test
+    public void compactListingIsSmallerThanDefault() throws Exception {
+        int full = listingSize(null);
+        int compact = listingSize("compact");
+
+        assertThat(compact).isLessThan(full / 2);
+    }
+
+    private int listingSize(String projection) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/employees")
+                .header(HttpHeaders.AUTHORIZATION, GREG)
+                .accept(MediaTypes.HAL_JSON);
+        if (projection != null) {
+            request.param("projection", projection);
+        }
+
+        return this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+}
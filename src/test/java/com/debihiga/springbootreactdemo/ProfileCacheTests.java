@@ -0,0 +1,59 @@
+package com.debihiga.springbootreactdemo;
+
+import static com.debihiga.springbootreactdemo.TestCredentials.GREG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks the headers added by {@link ProfileCacheConfiguration}.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProfileCacheTests {
+
+    private static final String SCHEMA_JSON = "application/schema+json";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void profileIsCacheableAndVariesOnAccept() throws Exception {
+        MockHttpServletResponse response = this.mvc.perform(get("/api/profile/employees")
+                .header(HttpHeaders.AUTHORIZATION, GREG)
+                .accept(SCHEMA_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, private"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse();
+
+        assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+
+        this.mvc.perform(get("/api/profile/employees")
+                .header(HttpHeaders.AUTHORIZATION, GREG)
+                .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG))
+                .accept(SCHEMA_JSON))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void failedProfileRequestIsNotCacheable() throws Exception {
+        MockHttpServletResponse response = this.mvc.perform(get("/api/profile/nope")
+                .header(HttpHeaders.AUTHORIZATION, GREG)
+                .accept(SCHEMA_JSON))
+                .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isGreaterThanOrEqualTo(400);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).doesNotContain("max-age=600");
+        assertThat(response.getHeaders(HttpHeaders.VARY)).doesNotContain(HttpHeaders.ACCEPT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.debihiga.springbootreactdemo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Basic-auth header for one of the managers created by {@link DatabaseLoader}.
+ * */
+final class TestCredentials {
+
+    static final String GREG = "Basic " + Base64.getEncoder()
+            .encodeToString("greg:turnquist".getBytes(StandardCharsets.UTF_8));
+
+    private TestCredentials() {}
+}